@@ -0,0 +1,32 @@
+package fr.fezlight;
+
+/**
+ * Projection of a mapper compiled by {@link Mapperz#fieldSet(String...)}, holding a bitmask of the declarations
+ * to be mapped by {@link Mapperz#map(Object, FieldSet)}.
+ *
+ * @author FezLight
+ * @version 1.1.3
+ * @since 1.1.3
+ */
+public final class FieldSet {
+    private final Mapperz<?, ?> mapper;
+    private final long[] mask;
+
+    FieldSet(Mapperz<?, ?> mapper, long[] mask) {
+        this.mapper = mapper;
+        this.mask = mask;
+    }
+
+    boolean isCompiledFor(Mapperz<?, ?> mapper) {
+        return this.mapper == mapper;
+    }
+
+    /**
+     * @param index index of the declaration into the mapper
+     * @return true if the declaration is part of this field set
+     */
+    boolean contains(int index) {
+        int word = index >>> 6;
+        return word < mask.length && (mask[word] & (1L << index)) != 0;
+    }
+}
@@ -3,12 +3,23 @@ package fr.fezlight;
 import de.cronn.reflection.util.PropertyUtils;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.*;
 import java.util.stream.Collectors;
 
@@ -27,19 +38,27 @@ public final class Mapperz<I, O> {
             "Mapping between '%s' fields cannot be achieve because types differ from %s to %s\n" +
             "- Rename this field to avoid auto mapping or declare it manually with declare() method\n" +
             "Note : Be sure to exclude field from auto-mapping after manual mapping by using declareAutomatic(<excludedFields>)";
-    private final Map<Function<I, Object>, BiConsumer<O, Object>> mappings = new HashMap<>();
-    private final List<Function<I, Object>> listArgsConstructor = new ArrayList<>(0);
-    private final List<Class<?>> listArgsConstructorType = new ArrayList<>(0);
-    private final List<PropertyDescriptor> inputPropertyDescriptors;
-    private final List<PropertyDescriptor> outputPropertyDescriptors;
+    /**
+     * Number of mappings executed by {@link Mapperz#warmUp(Supplier)}. JIT state cannot be observed portably, so a fixed
+     * count is used, above the invocation thresholds after which HotSpot compiles a method with its optimizing compiler.
+     */
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 10_000;
+    // Final references, so a mapper published without synchronization still sees them
+    private final AtomicReference<Map<Function<I, Object>, BiConsumer<O, Object>>> mappings =
+            new AtomicReference<>(Collections.emptyMap());
+    private final ArgsConstructor<I, O> noArgsConstructor;
+    private final AtomicReference<ArgsConstructor<I, O>> argsConstructor;
+    private List<PropertyDescriptor> inputPropertyDescriptors;
+    private List<PropertyDescriptor> outputPropertyDescriptors;
+    private MapperzSnapshot snapshot;
     private final Class<I> inClass;
     private final Class<O> outClass;
 
     private Mapperz(Class<I> inClass, Class<O> outClass) {
         this.inClass = inClass;
-        this.inputPropertyDescriptors = new ArrayList<>(PropertyUtils.getPropertyDescriptors(inClass));
-        this.outputPropertyDescriptors = new ArrayList<>(PropertyUtils.getPropertyDescriptors(outClass));
         this.outClass = outClass;
+        this.noArgsConstructor = new ArgsConstructor<>(outClass, Collections.emptyList(), new Class<?>[0]);
+        this.argsConstructor = new AtomicReference<>(noArgsConstructor);
     }
 
     /**
@@ -63,6 +82,8 @@ public final class Mapperz<I, O> {
      * Method used to declare one-field value to be provided into constructor when creating new output instance.
      * <p>
      * Re-use multiple time for each field inside input class who need to be added to constructor.
+     * Declared arguments and constructor are published together, so a mapper shared between threads creates each
+     * output instance either with all previous arguments or with the new one too.
      *
      * @param from    Input class function can return value (most of the time it can be the getter method)
      * @param argType Type arg according to constructor arg
@@ -70,9 +91,8 @@ public final class Mapperz<I, O> {
      * @return current instance to be chained
      */
     @SuppressWarnings("unchecked")
-    public <D> Mapperz<I, O> declareInConstructor(Function<I, D> from, Class<D> argType) {
-        listArgsConstructor.add((Function<I, Object>)from);
-        listArgsConstructorType.add(argType);
+    public synchronized <D> Mapperz<I, O> declareInConstructor(Function<I, D> from, Class<D> argType) {
+        argsConstructor.set(argsConstructor.get().with((Function<I, Object>) from, argType));
         return this;
     }
 
@@ -104,9 +124,229 @@ public final class Mapperz<I, O> {
      * @param <D1> Value class type after formatting by <code>formatter</code>
      * @return current instance to be chained
      */
-    @SuppressWarnings("unchecked")
     public <D, D1> Mapperz<I, O> declare(Function<I, D> from, BiConsumer<O, D1> to, Function<D, D1> formatter) {
-        mappings.put(from.andThen(formatter), (BiConsumer<O, Object>) to);
+        return declare(null, from, to, formatter);
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, named <code>field</code> to be reported when mapping fails using {@link Mapperz#mapAll(List)}.
+     * <p>
+     * Re-use multiple time for each field inside input class who need to be mapped.
+     *
+     * @param field Name of the mapped field
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @return current instance to be chained
+     */
+    public <D> Mapperz<I, O> declare(String field, Function<I, D> from, BiConsumer<O, D> to) {
+        return declare(field, from, to, UnaryOperator.identity());
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, named <code>field</code> to be reported when mapping fails using {@link Mapperz#mapAll(List)}.
+     * <p>
+     * Re-use multiple time for each field inside input class who need to be mapped.
+     *
+     * @param field Name of the mapped field
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param formatter a formatter to apply to <code>D</code> object (apply transformation to object)
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @param <D1> Value class type after formatting by <code>formatter</code>
+     * @return current instance to be chained
+     */
+    @SuppressWarnings("unchecked")
+    public <D, D1> Mapperz<I, O> declare(String field, Function<I, D> from, BiConsumer<O, D1> to, Function<D, D1> formatter) {
+        addMapping(new Declaration<>(field, from.andThen(formatter), null, null, null), (BiConsumer<O, Object>) to);
+        return this;
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, only when <code>condition</code> is true for the input class instance.
+     * <p>
+     * The condition is evaluated before <code>from</code>, so nothing is read from input class when it is false.
+     *
+     * @param condition Input class predicate, true when the field has to be mapped
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @return current instance to be chained
+     */
+    public <D> Mapperz<I, O> declareIf(Predicate<I> condition, Function<I, D> from, BiConsumer<O, D> to) {
+        return declareIf(null, condition, from, to, UnaryOperator.identity());
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, only when <code>condition</code> is true for the input class instance.
+     * <p>
+     * The condition is evaluated before <code>from</code>, so nothing is read nor formatted when it is false.
+     *
+     * @param condition Input class predicate, true when the field has to be mapped
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param formatter a formatter to apply to <code>D</code> object (apply transformation to object)
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @param <D1> Value class type after formatting by <code>formatter</code>
+     * @return current instance to be chained
+     */
+    public <D, D1> Mapperz<I, O> declareIf(Predicate<I> condition, Function<I, D> from, BiConsumer<O, D1> to,
+                                           Function<D, D1> formatter) {
+        return declareIf(null, condition, from, to, formatter);
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, named <code>field</code>, only when <code>condition</code> is true for the input class instance.
+     * <p>
+     * The condition is evaluated before <code>from</code>, so nothing is read nor formatted when it is false.
+     *
+     * @param field Name of the mapped field
+     * @param condition Input class predicate, true when the field has to be mapped
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param formatter a formatter to apply to <code>D</code> object (apply transformation to object)
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @param <D1> Value class type after formatting by <code>formatter</code>
+     * @return current instance to be chained
+     */
+    @SuppressWarnings("unchecked")
+    public <D, D1> Mapperz<I, O> declareIf(String field, Predicate<I> condition, Function<I, D> from,
+                                           BiConsumer<O, D1> to, Function<D, D1> formatter) {
+        if(condition == null) {
+            throw new IllegalArgumentException("Mapperz.declareIf() - Condition provided is null");
+        }
+        addMapping(new Declaration<>(field, from.andThen(formatter), condition, null, null),
+                (BiConsumer<O, Object>) to);
+        return this;
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, which can be mapped back by the mapper created with {@link Mapperz#reverse()}.
+     * <p>
+     * The reversed mapper reads the value with <code>inverseFrom</code>, applies <code>inverseFormatter</code> and
+     * writes it with <code>inverseTo</code>, so the field can be named differently in input and output class.
+     *
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param formatter a formatter to apply to <code>D</code> object (apply transformation to object)
+     * @param inverseFrom Output class function reading the value back (most of the time it can be the getter method)
+     * @param inverseTo Input class consumer writing the value back (most of the time it can be the setter method)
+     * @param inverseFormatter a formatter to apply to <code>D1</code> object when mapping back to input class
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @param <D1> Value class type after formatting by <code>formatter</code>
+     * @return current instance to be chained
+     */
+    public <D, D1> Mapperz<I, O> declare(Function<I, D> from, BiConsumer<O, D1> to, Function<D, D1> formatter,
+                                         Function<O, D1> inverseFrom, BiConsumer<I, D> inverseTo,
+                                         Function<D1, D> inverseFormatter) {
+        return declare(null, from, to, formatter, inverseFrom, inverseTo, inverseFormatter);
+    }
+
+    /**
+     * Method used to declare one-field mapping to another from input class to
+     * output class, named <code>field</code>, which can be mapped back by the mapper created with
+     * {@link Mapperz#reverse()}.
+     * <p>
+     * The reversed mapper reads the value with <code>inverseFrom</code>, applies <code>inverseFormatter</code> and
+     * writes it with <code>inverseTo</code>, so the field can be named differently in input and output class.
+     *
+     * @param field Name of the mapped field
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to   Output class consumer can accept value (most of the time it can be the setter method)
+     * @param formatter a formatter to apply to <code>D</code> object (apply transformation to object)
+     * @param inverseFrom Output class function reading the value back (most of the time it can be the getter method)
+     * @param inverseTo Input class consumer writing the value back (most of the time it can be the setter method)
+     * @param inverseFormatter a formatter to apply to <code>D1</code> object when mapping back to input class
+     * @param <D>  Value class type to be mapped from <code>input</code> to <code>output</code>
+     * @param <D1> Value class type after formatting by <code>formatter</code>
+     * @return current instance to be chained
+     */
+    @SuppressWarnings("unchecked")
+    public <D, D1> Mapperz<I, O> declare(String field, Function<I, D> from, BiConsumer<O, D1> to,
+                                         Function<D, D1> formatter, Function<O, D1> inverseFrom,
+                                         BiConsumer<I, D> inverseTo, Function<D1, D> inverseFormatter) {
+        if(inverseFrom == null || inverseTo == null || inverseFormatter == null) {
+            throw new IllegalArgumentException("Mapperz.declare() - Inverse getter, setter and formatter must be provided");
+        }
+        addMapping(new Declaration<>(field, from.andThen(formatter), null,
+                (Function<Object, Object>) inverseFrom.andThen(inverseFormatter), (BiConsumer<Object, Object>) inverseTo
+        ), (BiConsumer<O, Object>) to);
+        return this;
+    }
+
+    /**
+     * Method used to declare one-field mapping resolved from properties of input and output class.
+     * When <code>inverseGetter</code> and <code>inverseSetter</code> are provided, the mapper created with
+     * {@link Mapperz#reverse()} maps it back with them.
+     * @param declarations Declarations to be published together by {@link Mapperz#addMappings(Map)}
+     * @param field Name of the mapped property
+     * @param getter Input class getter
+     * @param setter Output class setter
+     * @param inverseGetter Output class getter or null if the property cannot be mapped back
+     * @param inverseSetter Input class setter or null if the property cannot be mapped back
+     */
+    private void declareProperty(Map<Function<I, Object>, BiConsumer<O, Object>> declarations, String field,
+                                 Method getter, Method setter, Method inverseGetter, Method inverseSetter) {
+        MethodHandle read = getterHandle(getter);
+        MethodHandle write = setterHandle(setter);
+
+        Function<I, Object> from = input -> get(read, input);
+
+        BiConsumer<O, Object> to = (output, data) -> set(write, output, data);
+
+        Function<Object, Object> inverseFrom = null;
+        BiConsumer<Object, Object> inverseTo = null;
+        if (inverseGetter != null && inverseSetter != null) {
+            MethodHandle inverseRead = getterHandle(inverseGetter);
+            MethodHandle inverseWrite = setterHandle(inverseSetter);
+            inverseFrom = output -> get(inverseRead, output);
+            inverseTo = (input, data) -> set(inverseWrite, input, data);
+        }
+        declarations.put(new Declaration<>(field, from, null, inverseFrom, inverseTo), to);
+    }
+
+    /**
+     * Method used to add a mapping into a copy of {@link Mapperz#mappings} then publish it, so a mapper shared between
+     * threads always maps with a complete set of mappings, even while another thread is declaring a new one.
+     * @param from Input class function can return value (most of the time it can be the getter method)
+     * @param to Output class consumer can accept value (most of the time it can be the setter method)
+     */
+    private void addMapping(Function<I, Object> from, BiConsumer<O, Object> to) {
+        addMappings(Collections.singletonMap(from, to));
+    }
+
+    /**
+     * Method used to add several mappings into one copy of {@link Mapperz#mappings} then publish it, so a mapper shared
+     * between threads maps with all of them or none of them.
+     * @param declarations Mappings to add, in declaration order
+     */
+    private synchronized void addMappings(Map<Function<I, Object>, BiConsumer<O, Object>> declarations) {
+        Map<Function<I, Object>, BiConsumer<O, Object>> copy = new LinkedHashMap<>(mappings.get());
+        copy.putAll(declarations);
+        mappings.set(copy);
+    }
+
+    /**
+     * Method used to attach a snapshot of resolved mapping plans to this mapper.
+     * <p>
+     * When a plan matching this mapper is found in the snapshot, {@link Mapperz#declareAutomatic(List)} reuses it
+     * and skips introspection and type validation. Otherwise, the plan is resolved as usual and recorded into the
+     * snapshot so it can be saved with {@link MapperzSnapshot#save(java.nio.file.Path)}.
+     *
+     * @param snapshot snapshot used to load and record mapping plans
+     * @return current instance to be chained
+     */
+    public Mapperz<I, O> withSnapshot(MapperzSnapshot snapshot) {
+        if(snapshot == null) {
+            throw new IllegalArgumentException("Mapperz.withSnapshot() - Snapshot provided is null");
+        }
+        this.snapshot = snapshot;
         return this;
     }
 
@@ -126,33 +366,208 @@ public final class Mapperz<I, O> {
      * @return current instance to be chained
      */
     public Mapperz<I, O> declareAutomatic(List<String> excludedFields){
-        List<PropertyDescriptor> inputFields = inputPropertyDescriptors.stream()
+        if (snapshot != null && declareFromSnapshot(excludedFields)) {
+            return this;
+        }
+
+        List<PropertyDescriptor> inputFields = getInputPropertyDescriptors().stream()
                 .filter(field -> excludedFields == null || !excludedFields.contains(field.getName()))
                 .filter(field -> isFieldExistInTargetClass(outClass, field.getName()))
                 .collect(Collectors.toList());
 
+        Map<Function<I, Object>, BiConsumer<O, Object>> declarations = new LinkedHashMap<>();
+        List<MapperzSnapshot.PropertyPlan> plans = new ArrayList<>(inputFields.size());
         inputFields.forEach(inputField -> {
             String fieldName = inputField.getName();
 
-            Function<I, Object> from = input -> PropertyUtils.read(input, inputField);
-
-            PropertyDescriptor outputField = getPropertyDescriptorOfField(outputPropertyDescriptors, fieldName);
+            PropertyDescriptor outputField = getPropertyDescriptorOfField(getOutputPropertyDescriptors(), fieldName);
 
-            Type getterType = inputField.getReadMethod().getGenericReturnType();
-            Type setterType = outputField.getWriteMethod().getGenericParameterTypes()[0];
+            Method getter = inputField.getReadMethod();
+            Method setter = outputField.getWriteMethod();
+            Type getterType = getter.getGenericReturnType();
+            Type setterType = setter.getGenericParameterTypes()[0];
 
             validateGenericType(getterType, setterType, fieldName);
 
-            BiConsumer<O, Object> biConsumer = (output, data) -> PropertyUtils.write(output, outputField, data);
+            // Resolved now from descriptors already loaded, so reverse() does not introspect classes again
+            Method inverseGetter = outputField.getReadMethod();
+            Method inverseSetter = inputField.getWriteMethod();
+            if (inverseGetter == null || inverseSetter == null || !isFieldExistInTargetClass(inClass, fieldName)
+                    || !isGenericTypeCompatible(inverseGetter.getGenericReturnType(),
+                    inverseSetter.getGenericParameterTypes()[0])) {
+                inverseGetter = null;
+                inverseSetter = null;
+            }
 
-            this.declare(from, biConsumer);
+            this.declareProperty(declarations, fieldName, getter, setter, inverseGetter, inverseSetter);
+            plans.add(new MapperzSnapshot.PropertyPlan(fieldName,
+                    getter.getName(), getterType.getTypeName(), setter.getName(), setterType.getTypeName(),
+                    inverseGetter == null ? "" : inverseGetter.getName(),
+                    inverseGetter == null ? "" : inverseGetter.getGenericReturnType().getTypeName(),
+                    inverseSetter == null ? "" : inverseSetter.getName(),
+                    inverseSetter == null ? "" : inverseSetter.getGenericParameterTypes()[0].getTypeName()));
         });
+        addMappings(declarations);
+
+        if (snapshot != null) {
+            snapshot.record(inClass, outClass, excludedFields, plans);
+        }
         return this;
     }
 
+    /**
+     * Method used to declare mappings from a plan previously recorded into {@link Mapperz#snapshot}.
+     * Every getter and setter of the plan is resolved before declaring anything, so nothing is declared
+     * if one of them no longer exists or has changed its type.
+     * @param excludedFields list of all field name excluded from auto-mapping
+     * @return true if the plan has been declared, false if it is missing or outdated.
+     */
+    private boolean declareFromSnapshot(List<String> excludedFields) {
+        List<MapperzSnapshot.PropertyPlan> plans = snapshot.lookup(inClass, outClass, excludedFields);
+        if (plans == null) {
+            return false;
+        }
+
+        Method[] inputMethods = inClass.getMethods();
+        Method[] outputMethods = outClass.getMethods();
+        List<Method[]> accessors = new ArrayList<>(plans.size());
+        for (MapperzSnapshot.PropertyPlan plan : plans) {
+            Method getter = findMethod(inputMethods, plan.getReadMethod(), 0, plan.getReadType());
+            Method setter = findMethod(outputMethods, plan.getWriteMethod(), 1, plan.getWriteType());
+            if (getter == null || setter == null || !isFieldExistInTargetClass(outClass, plan.getName())) {
+                return false;
+            }
+            Method inverseGetter = null;
+            Method inverseSetter = null;
+            if (!plan.getInverseReadMethod().isEmpty()) {
+                inverseGetter = findMethod(outputMethods, plan.getInverseReadMethod(), 0, plan.getInverseReadType());
+                inverseSetter = findMethod(inputMethods, plan.getInverseWriteMethod(), 1, plan.getInverseWriteType());
+                if (inverseGetter == null || inverseSetter == null || !isFieldExistInTargetClass(inClass, plan.getName())) {
+                    return false;
+                }
+            }
+            accessors.add(new Method[]{getter, setter, inverseGetter, inverseSetter});
+        }
+
+        Map<Function<I, Object>, BiConsumer<O, Object>> declarations = new LinkedHashMap<>();
+        for (int i = 0; i < plans.size(); i++) {
+            Method[] accessor = accessors.get(i);
+            this.declareProperty(declarations, plans.get(i).getName(), accessor[0], accessor[1], accessor[2], accessor[3]);
+        }
+        addMappings(declarations);
+        return true;
+    }
+
+    /**
+     * Method used to create a mapper from output class to input class, mapping back every field declared by
+     * {@link Mapperz#declareAutomatic(List)} or by
+     * {@link Mapperz#declare(String, Function, BiConsumer, Function, Function, BiConsumer, Function)}.
+     * <p>
+     * Getters and setters resolved when declaring are swapped, no class is introspected again. Automatic fields which
+     * cannot be read from output class or written to input class are skipped. Other declarations, including
+     * constructor ones, cannot be inverted and must be declared on the returned mapper.
+     *
+     * @return a new mapper from output class to input class
+     */
+    @SuppressWarnings("unchecked")
+    public Mapperz<O, I> reverse() {
+        Mapperz<O, I> reversed = new Mapperz<>(outClass, inClass);
+        reversed.snapshot = snapshot;
+
+        Map<Function<O, Object>, BiConsumer<I, Object>> declarations = new LinkedHashMap<>();
+        for (Map.Entry<Function<I, Object>, BiConsumer<O, Object>> m : mappings.get().entrySet()) {
+            Declaration<I> declaration = (Declaration<I>) m.getKey();
+            if (declaration.inverseFrom == null) {
+                continue;
+            }
+
+            declarations.put(new Declaration<>(declaration.name, declaration.inverseFrom, null,
+                    (Function<Object, Object>) declaration.from, (BiConsumer<Object, Object>) m.getValue()
+            ), (BiConsumer<I, Object>) declaration.inverseTo);
+        }
+        reversed.addMappings(declarations);
+
+        reversed.inputPropertyDescriptors = outputPropertyDescriptors;
+        reversed.outputPropertyDescriptors = inputPropertyDescriptors;
+        return reversed;
+    }
+
+    private static Method findMethod(Method[] methods, String name, int parameterCount, String typeName) {
+        for (Method method : methods) {
+            if (!method.getName().equals(name) || method.getParameterCount() != parameterCount) {
+                continue;
+            }
+            Type type = parameterCount == 0 ? method.getGenericReturnType() : method.getGenericParameterTypes()[0];
+            if (type.getTypeName().equals(typeName)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method used to resolve a method handle of a getter once, adapted to be called with any input and return an object.
+     */
+    private static MethodHandle getterHandle(Method getter) {
+        return unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    /**
+     * Method used to resolve a method handle of a setter once, adapted to be called with any output and value.
+     */
+    private static MethodHandle setterHandle(Method setter) {
+        return unreflect(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Keep default access checks when the method cannot be made accessible
+        }
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("Method %s cannot be accessed", method), e);
+        }
+    }
+
+    /**
+     * Method used to call a getter. Exceptions thrown by the getter are not wrapped, unchecked ones are rethrown as is
+     * like it would be by a declared lambda, so no other exception is created and no stack trace is filled.
+     */
+    private static Object get(MethodHandle getter, Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Getter %s has thrown an exception", getter), e);
+        }
+    }
+
+    /**
+     * Method used to call a setter, exceptions thrown by the setter are handled like {@link Mapperz#get(MethodHandle, Object)}.
+     */
+    private static void set(MethodHandle setter, Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Setter %s has thrown an exception", setter), e);
+        }
+    }
+
     private static void validateGenericType(Type getterType, Type setterType, String fieldName) {
+        if (!isGenericTypeCompatible(getterType, setterType)) {
+            throw new IllegalArgumentException(String.format(ERROR_MAPPING_FIELDS_TYPE_DIFFER, fieldName, getterType, setterType));
+        }
+    }
+
+    private static boolean isGenericTypeCompatible(Type getterType, Type setterType) {
         if (!(getterType instanceof ParameterizedType) && !(setterType instanceof ParameterizedType)) {
-            return;
+            return true;
         }
 
         Type[] typeGetter = null;
@@ -165,19 +580,89 @@ public final class Mapperz<I, O> {
             typeSetter = ((ParameterizedType) setterType).getActualTypeArguments();
         }
 
-        if (typeSetter == null || typeGetter == null) {
-            throw new IllegalArgumentException(String.format(ERROR_MAPPING_FIELDS_TYPE_DIFFER, fieldName, getterType, setterType));
-        }
-
-        if (typeGetter.length != typeSetter.length) {
-            throw new IllegalArgumentException(String.format(ERROR_MAPPING_FIELDS_TYPE_DIFFER, fieldName, getterType, setterType));
+        if (typeSetter == null || typeGetter == null || typeGetter.length != typeSetter.length) {
+            return false;
         }
 
         for (int i = 0; i < typeGetter.length; i++) {
             if (!typeGetter[i].getTypeName().equals(typeSetter[i].getTypeName())) {
-                throw new IllegalArgumentException(String.format(ERROR_MAPPING_FIELDS_TYPE_DIFFER, fieldName, getterType, setterType));
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Method used to compile a projection of this mapper, only mapping declarations named by one of <code>fields</code>
+     * when used with {@link Mapperz#map(Object, FieldSet)}.
+     * <p>
+     * Compile it once and reuse it for each call. Declarations added after it has been compiled are not part of it.
+     * Every declaration of this mapper must be named, otherwise it could never be mapped with a field set.
+     *
+     * @param fields Names of the fields to be mapped, as named by declareAutomatic() or declare()
+     * @return a field set usable with this mapper only
+     */
+    public FieldSet fieldSet(String... fields) {
+        if(fields == null) {
+            throw new IllegalArgumentException("Mapperz.fieldSet() - Fields provided is null");
+        }
+        List<String> names = Arrays.asList(fields);
+        Set<Function<I, Object>> declarations = mappings.get().keySet();
+        long[] mask = new long[(declarations.size() + 63) >>> 6];
+        Set<String> found = new HashSet<>();
+
+        int index = 0;
+        for (Function<I, Object> declaration : declarations) {
+            String name = Declaration.nameOf(declaration);
+            if (name == null) {
+                throw new IllegalArgumentException("Mapperz.fieldSet() - Declarations without name cannot be part of a " +
+                        "field set, name them with declare(field, ...) or declareIf(field, ...)");
+            }
+            if (names.contains(name)) {
+                mask[index >>> 6] |= 1L << index;
+                found.add(name);
+            }
+            index++;
+        }
+
+        for (String name : names) {
+            if (!found.contains(name)) {
+                throw new IllegalArgumentException(String.format("Mapperz.fieldSet() - No declaration found for field %s", name));
+            }
+        }
+        return new FieldSet(this, mask);
+    }
+
+    /**
+     * Method used to warm up the mapper by mapping {@link Mapperz#DEFAULT_WARM_UP_ITERATIONS} input instances provided
+     * by <code>input</code>, so the mapping path is compiled by the JIT before the first real call.
+     * <p>
+     * Provide inputs looking like real ones, with non-null values for mapped fields : the JIT optimizes for what it
+     * has seen, a field always null while warming up is compiled as never mapped and deoptimized on the first real call.
+     *
+     * @param input Input class instance supplier used for each iteration
+     * @return current instance to be chained
+     */
+    public Mapperz<I, O> warmUp(Supplier<I> input) {
+        return warmUp(input, DEFAULT_WARM_UP_ITERATIONS);
+    }
+
+    /**
+     * Method used to warm up the mapper by mapping <code>iterations</code> input instances provided by
+     * <code>input</code>, so the mapping path is compiled by the JIT before the first real call.
+     *
+     * @param input      Input class instance supplier used for each iteration
+     * @param iterations number of mappings to execute
+     * @return current instance to be chained
+     */
+    public Mapperz<I, O> warmUp(Supplier<I> input, int iterations) {
+        if(input == null || iterations < 0) {
+            throw new IllegalArgumentException("Mapperz.warmUp() - Input supplier is null or iterations is negative");
+        }
+        for (int i = 0; i < iterations; i++) {
+            map(input.get());
+        }
+        return this;
     }
 
     /**
@@ -206,16 +691,144 @@ public final class Mapperz<I, O> {
             return null;
         }
 
-        if(!listArgsConstructor.isEmpty()) {
-            Object[] args = listArgsConstructor.parallelStream()
-                    .map(f -> f.apply(input))
-                    .toArray();
-            return executeMapping(input, this.instanciate(args));
+        ArgsConstructor<I, O> constructor = argsConstructor.get();
+        if(!constructor.isEmpty()) {
+            return executeMapping(input, this.instanciate(constructor, input));
         }
 
         return executeMapping(input, output.get());
     }
 
+    /**
+     * Method used to start mapping between input class and output class using only declared items part of
+     * <code>fields</code>, other declarations are neither read nor formatted.
+     * @param input Input class instance
+     * @param fields Field set compiled by {@link Mapperz#fieldSet(String...)} of this mapper
+     * @return Output class instance with all value of <code>fields</code> mapped from input class or null.
+     */
+    public O map(I input, FieldSet fields) {
+        return map(input, this::instanciate, fields);
+    }
+
+    /**
+     * Method used to start mapping between input class and output class using only declared items part of
+     * <code>fields</code>, other declarations are neither read nor formatted.
+     * @param input Input class instance
+     * @param output Output class if you want to provide, be careful if you use <br>
+     * {@link Mapperz#declareInConstructor(Function,Class)}, you cannot use this field to override. Instead use
+     * {@link Mapperz#map(Object, FieldSet)}
+     * @param fields Field set compiled by {@link Mapperz#fieldSet(String...)} of this mapper
+     * @return Output class instance with all value of <code>fields</code> mapped from input class or null.
+     */
+    public O map(I input, Supplier<O> output, FieldSet fields) {
+        if(fields == null || !fields.isCompiledFor(this)) {
+            throw new IllegalArgumentException("Mapperz.map() - Field set provided is null or compiled for another mapper");
+        }
+        // Return a null output if input is null
+        if(input == null) {
+            return null;
+        }
+
+        ArgsConstructor<I, O> constructor = argsConstructor.get();
+        if(!constructor.isEmpty()) {
+            return executeMapping(input, this.instanciate(constructor, input), fields);
+        }
+
+        return executeMapping(input, output.get(), fields);
+    }
+
+    /**
+     * Method used to map all <code>inputs</code> without throwing on the first invalid input.
+     * <p>
+     * Each failure is collected into the result with the index of the input and the field in error,
+     * and the output of this input is null.
+     *
+     * @param inputs Input class instances
+     * @return a result with one output per input and all failures
+     * @see Mapperz#mapAll(List, int, boolean)
+     */
+    public MappingResult<O> mapAll(List<I> inputs) {
+        return mapAll(inputs, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * Method used to map all <code>inputs</code> without throwing on the first invalid input.
+     * <p>
+     * Each failure is collected into the result with the index of the input and the field in error,
+     * and the output of this input is null. The mapping of an input stops at its first failure.
+     * When more than <code>failureBudget</code> inputs have failed, remaining inputs are not mapped and the result is
+     * marked as aborted.
+     * <p>
+     * Collected failures are created without stack trace when <code>stackTrace</code> is false, and so are failures of
+     * Mapperz itself : a missing output constructor is looked up once and shared by all failures. Exceptions thrown by
+     * declared getters, setters, formatters and output constructor are the causes of collected failures, they keep the
+     * stack trace filled when they have been thrown.
+     *
+     * @param inputs Input class instances
+     * @param failureBudget maximum number of failed inputs before aborting
+     * @param stackTrace false to collect failures without stack trace
+     * @return a result with one output per mapped input and all failures
+     */
+    public MappingResult<O> mapAll(List<I> inputs, int failureBudget, boolean stackTrace) {
+        if(inputs == null || failureBudget < 0) {
+            throw new IllegalArgumentException("Mapperz.mapAll() - Inputs provided is null or failure budget is negative");
+        }
+
+        ArgsConstructor<I, O> constructor = argsConstructor.get();
+        Constructor<O> outputConstructor = null;
+        NoSuchMethodException constructorNotFound = null;
+        try {
+            outputConstructor = constructor.resolve();
+        } catch (NoSuchMethodException e) {
+            constructorNotFound = e;
+        }
+
+        List<O> outputs = new ArrayList<>(inputs.size());
+        List<MappingException> failures = new ArrayList<>(0);
+        for (I input : inputs) {
+            if (failures.size() > failureBudget) {
+                return new MappingResult<>(outputs, failures, true);
+            }
+            if (input == null) {
+                outputs.add(null);
+                continue;
+            }
+
+            int index = outputs.size();
+            O output = null;
+            Throwable cause = constructorNotFound;
+            if (outputConstructor != null) {
+                try {
+                    output = outputConstructor.newInstance(constructor.resolveArgs(input));
+                } catch (InvocationTargetException e) {
+                    cause = e.getCause();
+                } catch (Exception e) {
+                    cause = e;
+                }
+            }
+            if (output == null) {
+                failures.add(new MappingException(index, -1, null, cause, stackTrace));
+                outputs.add(null);
+                continue;
+            }
+
+            int declaration = 0;
+            for (Map.Entry<Function<I, Object>, BiConsumer<O, Object>> m : mappings.get().entrySet()) {
+                try {
+                    Object o = m.getKey().apply(input);
+                    if (o != null) m.getValue().accept(output, o);
+                    declaration++;
+                } catch (RuntimeException e) {
+                    failures.add(new MappingException(index, declaration, Declaration.nameOf(m.getKey()), e, stackTrace));
+                    output = null;
+                    break;
+                }
+            }
+            outputs.add(output);
+        }
+        return new MappingResult<>(outputs, failures, false);
+    }
+
     /**
      * Method used to execute all mappings between each field declared into {@link Mapperz#mappings}.
      * @param input Input class instance
@@ -223,37 +836,49 @@ public final class Mapperz<I, O> {
      * @return the output class instance with all mappings executed.
      */
     private O executeMapping(I input, O output) {
-        mappings.entrySet()
-                .parallelStream()
-                .map(m -> resolve(m.getKey(), m.getValue()))
-                .forEach(biFunction -> biFunction.apply(input, output));
+        for (Map.Entry<Function<I, Object>, BiConsumer<O, Object>> m : mappings.get().entrySet()) {
+            Object o = m.getKey().apply(input);
+            if (o != null) m.getValue().accept(output, o);
+        }
         return output;
     }
 
     /**
-     * Method used to create a bi-function able to resolve all mappings between each field.
-     * @param from Input class function can return value (most of the time it can be the getter method)
-     * @param to Output class consumer can accept value (most of the time it can be the setter method)
-     * @return a bi-function used to resolve mappings.
+     * Method used to execute mappings declared into {@link Mapperz#mappings} which are part of <code>fields</code>.
+     * @param input Input class instance
+     * @param output Output class instance to be mapped
+     * @param fields Field set of mappings to execute
+     * @return the output class instance with mappings of <code>fields</code> executed.
+     */
+    private O executeMapping(I input, O output, FieldSet fields) {
+        int index = 0;
+        for (Map.Entry<Function<I, Object>, BiConsumer<O, Object>> m : mappings.get().entrySet()) {
+            if (fields.contains(index++)) {
+                Object o = m.getKey().apply(input);
+                if (o != null) m.getValue().accept(output, o);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Method used to create a new instance of the output class with its default constructor.
+     * @return a new instance of Output class
      */
-    private BiFunction<I, O, O> resolve(Function<I, Object> from, BiConsumer<O, Object> to) {
-        return (input, output) -> {
-            Object o = from.apply(input);
-            if (o != null) to.accept(output, o);
-            return output;
-        };
+    private O instanciate() {
+        return instanciate(noArgsConstructor, null);
     }
 
     /**
      * Method used to create a new instance of the output class with any object needed in constructor declared previously
      * by using {@link Mapperz#declareInConstructor(Function,Class)} method.
-     * @param objects Constructor object (Must be in the right order)
+     * @param constructor Constructor arguments and types read once by the caller
+     * @param input Input class instance the arguments are read from
      * @return a new instance of Output class
      */
-    private O instanciate(Object ... objects) {
-        Class<?>[] params = listArgsConstructorType.toArray(new Class[0]);
+    private O instanciate(ArgsConstructor<I, O> constructor, I input) {
         try {
-            return outClass.getDeclaredConstructor(params).newInstance(objects);
+            return constructor.resolve().newInstance(constructor.resolveArgs(input));
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Be sure to provide arguments in constructor in the right order when you use declareInConstructor() " +
@@ -262,11 +887,33 @@ public final class Mapperz<I, O> {
         }
     }
 
+    private List<PropertyDescriptor> getInputPropertyDescriptors() {
+        if (inputPropertyDescriptors == null) {
+            inputPropertyDescriptors = new ArrayList<>(PropertyUtils.getPropertyDescriptors(inClass));
+        }
+        return inputPropertyDescriptors;
+    }
+
+    private List<PropertyDescriptor> getOutputPropertyDescriptors() {
+        if (outputPropertyDescriptors == null) {
+            outputPropertyDescriptors = new ArrayList<>(PropertyUtils.getPropertyDescriptors(outClass));
+        }
+        return outputPropertyDescriptors;
+    }
+
     private static PropertyDescriptor getPropertyDescriptorOfField(List<PropertyDescriptor> attributesDesc, String fieldName) {
+        PropertyDescriptor descriptor = findPropertyDescriptor(attributesDesc, fieldName);
+        if (descriptor == null) {
+            throw new IllegalArgumentException(String.format("No property descriptor found for field %s", fieldName));
+        }
+        return descriptor;
+    }
+
+    private static PropertyDescriptor findPropertyDescriptor(List<PropertyDescriptor> attributesDesc, String fieldName) {
         return attributesDesc.stream()
                 .filter(attribute -> attribute.getName().equals(fieldName))
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(String.format("No property descriptor found for field %s", fieldName)));
+                .orElse(null);
     }
 
     private static boolean isFieldExistInTargetClass(Class<?> targetClazz, String fieldName) {
@@ -277,4 +924,86 @@ public final class Mapperz<I, O> {
         }
         return true;
     }
+
+    /**
+     * Arguments declared by {@link Mapperz#declareInConstructor(Function, Class)} with the output class constructor
+     * accepting them. Never modified once published, each declaration publishes a new one.
+     * @param <I> Input class generic type
+     * @param <O> Output class generic type
+     */
+    private static final class ArgsConstructor<I, O> {
+        private final Class<O> outClass;
+        private final List<Function<I, Object>> args;
+        private final Class<?>[] types;
+        private volatile Constructor<O> constructor;
+
+        private ArgsConstructor(Class<O> outClass, List<Function<I, Object>> args, Class<?>[] types) {
+            this.outClass = outClass;
+            this.args = args;
+            this.types = types;
+        }
+
+        private ArgsConstructor<I, O> with(Function<I, Object> arg, Class<?> type) {
+            List<Function<I, Object>> copy = new ArrayList<>(args);
+            copy.add(arg);
+            Class<?>[] copyTypes = Arrays.copyOf(types, types.length + 1);
+            copyTypes[types.length] = type;
+            return new ArgsConstructor<>(outClass, Collections.unmodifiableList(copy), copyTypes);
+        }
+
+        private boolean isEmpty() {
+            return args.isEmpty();
+        }
+
+        private Constructor<O> resolve() throws NoSuchMethodException {
+            Constructor<O> c = constructor;
+            if (c == null) {
+                c = outClass.getDeclaredConstructor(types);
+                constructor = c;
+            }
+            return c;
+        }
+
+        private Object[] resolveArgs(I input) {
+            Object[] values = new Object[args.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = args.get(i).apply(input);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Input class function declared into {@link Mapperz#mappings} with the name of the mapped field and
+     * what is needed to map it back with {@link Mapperz#reverse()}.
+     * @param <I> Input class generic type
+     */
+    private static final class Declaration<I> implements Function<I, Object> {
+        private final String name;
+        private final Function<? super I, ?> from;
+        private final Predicate<I> condition;
+        private final Function<Object, Object> inverseFrom;
+        private final BiConsumer<Object, Object> inverseTo;
+
+        private Declaration(String name, Function<? super I, ?> from, Predicate<I> condition,
+                            Function<Object, Object> inverseFrom, BiConsumer<Object, Object> inverseTo) {
+            this.name = name;
+            this.from = from;
+            this.condition = condition;
+            this.inverseFrom = inverseFrom;
+            this.inverseTo = inverseTo;
+        }
+
+        @Override
+        public Object apply(I input) {
+            if (condition != null && !condition.test(input)) {
+                return null;
+            }
+            return from.apply(input);
+        }
+
+        private static String nameOf(Function<?, Object> function) {
+            return function instanceof Declaration ? ((Declaration<?>) function).name : null;
+        }
+    }
 }
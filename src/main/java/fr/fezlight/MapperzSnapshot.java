@@ -0,0 +1,272 @@
+package fr.fezlight;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class used to store mapping plans resolved by {@link Mapperz#declareAutomatic(List)} (matched properties with their
+ * getter and setter, and those used by {@link Mapperz#reverse()}) into a compact file, so they can be reused on next startup without introspecting classes again.
+ * <p>
+ * Each plan is stored with a fingerprint of the input and output classes. If one of them has changed since the
+ * snapshot has been saved, the plan is ignored and resolved again by reflection.
+ *
+ * @author FezLight
+ * @version 1.1.3
+ * @since 1.1.3
+ */
+public final class MapperzSnapshot {
+    private static final int MAGIC = 0x4d50505a;
+    private static final int VERSION = 2;
+    // Smallest size of a plan (empty key, fingerprint and property count) and of a property (nine empty strings)
+    private static final int MIN_PLAN_BYTES = 2 + 8 + 4;
+    private static final int MIN_PROPERTY_BYTES = 9 * 2;
+    private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+
+    private MapperzSnapshot() {
+    }
+
+    /**
+     * Method used to create an empty snapshot, mapping plans will be recorded into it by each mapper using
+     * {@link Mapperz#withSnapshot(MapperzSnapshot)}.
+     *
+     * @return a new empty snapshot
+     */
+    public static MapperzSnapshot create() {
+        return new MapperzSnapshot();
+    }
+
+    /**
+     * Method used to load a snapshot previously saved with {@link MapperzSnapshot#save(Path)}.
+     * <p>
+     * If the file does not exist, is malformed or has been written by another version of Mapperz, an empty snapshot
+     * is returned.
+     *
+     * @param path snapshot file path
+     * @return snapshot loaded from file or an empty one
+     */
+    public static MapperzSnapshot load(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("MapperzSnapshot.load() - Path provided is null");
+        }
+        if (!Files.exists(path)) {
+            return new MapperzSnapshot();
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Unable to read Mapperz snapshot %s", path), e);
+        }
+
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(content)));
+        } catch (IOException e) {
+            // Truncated or corrupted content
+            return new MapperzSnapshot();
+        }
+    }
+
+    /**
+     * Method used to read a snapshot, counts are checked against remaining bytes before allocating anything.
+     * @param in snapshot content
+     * @return snapshot read or an empty one if content is malformed
+     */
+    private static MapperzSnapshot read(DataInputStream in) throws IOException {
+        MapperzSnapshot snapshot = new MapperzSnapshot();
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return snapshot;
+        }
+        int planCount = in.readInt();
+        if (planCount < 0 || planCount > in.available() / MIN_PLAN_BYTES) {
+            return new MapperzSnapshot();
+        }
+        for (int i = 0; i < planCount; i++) {
+            String key = in.readUTF();
+            long fingerprint = in.readLong();
+            int propertyCount = in.readInt();
+            if (propertyCount < 0 || propertyCount > in.available() / MIN_PROPERTY_BYTES) {
+                return new MapperzSnapshot();
+            }
+            List<PropertyPlan> properties = new ArrayList<>(propertyCount);
+            for (int j = 0; j < propertyCount; j++) {
+                properties.add(new PropertyPlan(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                        in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            snapshot.plans.put(key, new Plan(fingerprint, properties));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Method used to save all mapping plans recorded into this snapshot.
+     *
+     * @param path snapshot file path
+     */
+    public void save(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("MapperzSnapshot.save() - Path provided is null");
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            Map<String, Plan> copy = new TreeMap<>(plans);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(copy.size());
+            for (Map.Entry<String, Plan> entry : copy.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().fingerprint);
+                out.writeInt(entry.getValue().properties.size());
+                for (PropertyPlan property : entry.getValue().properties) {
+                    out.writeUTF(property.getName());
+                    out.writeUTF(property.getReadMethod());
+                    out.writeUTF(property.getReadType());
+                    out.writeUTF(property.getWriteMethod());
+                    out.writeUTF(property.getWriteType());
+                    out.writeUTF(property.getInverseReadMethod());
+                    out.writeUTF(property.getInverseReadType());
+                    out.writeUTF(property.getInverseWriteMethod());
+                    out.writeUTF(property.getInverseWriteType());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Unable to write Mapperz snapshot %s", path), e);
+        }
+    }
+
+    /**
+     * @return number of mapping plans stored into this snapshot
+     */
+    public int size() {
+        return plans.size();
+    }
+
+    /**
+     * Method used to find the plan recorded for a mapping between <code>inClass</code> and <code>outClass</code>.
+     * @param inClass Input class type
+     * @param outClass Output class type
+     * @param excludedFields list of all field name excluded from auto-mapping
+     * @return the recorded properties or null if no plan is found or classes have changed since it has been recorded.
+     */
+    List<PropertyPlan> lookup(Class<?> inClass, Class<?> outClass, List<String> excludedFields) {
+        Plan plan = plans.get(key(inClass, outClass, excludedFields));
+        if (plan == null || plan.fingerprint != fingerprint(inClass, outClass)) {
+            return null;
+        }
+        return plan.properties;
+    }
+
+    void record(Class<?> inClass, Class<?> outClass, List<String> excludedFields, List<PropertyPlan> properties) {
+        plans.put(key(inClass, outClass, excludedFields),
+                new Plan(fingerprint(inClass, outClass), Collections.unmodifiableList(new ArrayList<>(properties))));
+    }
+
+    private static String key(Class<?> inClass, Class<?> outClass, List<String> excludedFields) {
+        List<String> excluded = excludedFields == null ? new ArrayList<>(0) : new ArrayList<>(excludedFields);
+        Collections.sort(excluded);
+        return inClass.getName() + '>' + outClass.getName() + excluded;
+    }
+
+    /**
+     * Method used to compute a fingerprint of public methods of both classes and declared fields of output class,
+     * which are the members used by auto-mapping. Member order returned by reflection is not guaranteed,
+     * so hashes are summed.
+     */
+    private static long fingerprint(Class<?> inClass, Class<?> outClass) {
+        long inHash = 0;
+        for (Method method : inClass.getMethods()) {
+            inHash += method.toGenericString().hashCode();
+        }
+        long outHash = 0;
+        for (Method method : outClass.getMethods()) {
+            outHash += method.toGenericString().hashCode();
+        }
+        for (Field field : outClass.getDeclaredFields()) {
+            outHash += field.getName().hashCode();
+        }
+        return 31 * inHash + outHash;
+    }
+
+    private static final class Plan {
+        private final long fingerprint;
+        private final List<PropertyPlan> properties;
+
+        private Plan(long fingerprint, List<PropertyPlan> properties) {
+            this.fingerprint = fingerprint;
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * Resolved mapping of one property, getter of input class to setter of output class, and getter of output class to
+     * setter of input class when it can be mapped back (empty names otherwise).
+     */
+    static final class PropertyPlan {
+        private final String name;
+        private final String readMethod;
+        private final String readType;
+        private final String writeMethod;
+        private final String writeType;
+        private final String inverseReadMethod;
+        private final String inverseReadType;
+        private final String inverseWriteMethod;
+        private final String inverseWriteType;
+
+        PropertyPlan(String name, String readMethod, String readType, String writeMethod, String writeType,
+                     String inverseReadMethod, String inverseReadType, String inverseWriteMethod, String inverseWriteType) {
+            this.name = name;
+            this.readMethod = readMethod;
+            this.readType = readType;
+            this.writeMethod = writeMethod;
+            this.writeType = writeType;
+            this.inverseReadMethod = inverseReadMethod;
+            this.inverseReadType = inverseReadType;
+            this.inverseWriteMethod = inverseWriteMethod;
+            this.inverseWriteType = inverseWriteType;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getReadMethod() {
+            return readMethod;
+        }
+
+        String getReadType() {
+            return readType;
+        }
+
+        String getWriteMethod() {
+            return writeMethod;
+        }
+
+        String getWriteType() {
+            return writeType;
+        }
+
+        String getInverseReadMethod() {
+            return inverseReadMethod;
+        }
+
+        String getInverseReadType() {
+            return inverseReadType;
+        }
+
+        String getInverseWriteMethod() {
+            return inverseWriteMethod;
+        }
+
+        String getInverseWriteType() {
+            return inverseWriteType;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package fr.fezlight;
+
+/**
+ * Exception collected by {@link Mapperz#mapAll(java.util.List, int, boolean)} when the mapping of one input fails.
+ * <p>
+ * The message is only built when read, so collecting failures costs the same whatever the number of them.
+ *
+ * @author FezLight
+ * @version 1.1.3
+ * @since 1.1.3
+ */
+public final class MappingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private final int index;
+    private final int declaration;
+    private final String field;
+
+    MappingException(int index, int declaration, String field, Throwable cause, boolean stackTrace) {
+        super(null, cause, false, stackTrace);
+        this.index = index;
+        this.declaration = declaration;
+        this.field = field;
+    }
+
+    @Override
+    public String getMessage() {
+        if (declaration < 0) {
+            return String.format("Mapping of input %d failed when creating output", index);
+        }
+        if (field == null) {
+            return String.format("Mapping of input %d failed on unnamed declaration %d", index, declaration);
+        }
+        return String.format("Mapping of input %d failed on field '%s'", index, field);
+    }
+
+    /**
+     * @return index of the input in error
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return index of the declaration in error, in declaration order, or -1 if the output cannot be created
+     */
+    public int getDeclaration() {
+        return declaration;
+    }
+
+    /**
+     * @return name of the field in error or null if the declaration is not named or the output cannot be created
+     */
+    public String getField() {
+        return field;
+    }
+}
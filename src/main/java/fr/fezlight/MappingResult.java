@@ -0,0 +1,52 @@
+package fr.fezlight;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of {@link Mapperz#mapAll(List, int, boolean)} holding mapped outputs and failures collected for each input.
+ *
+ * @param <O> Output class generic type
+ * @author FezLight
+ * @version 1.1.3
+ * @since 1.1.3
+ */
+public final class MappingResult<O> {
+    private final List<O> outputs;
+    private final List<MappingException> failures;
+    private final boolean aborted;
+
+    MappingResult(List<O> outputs, List<MappingException> failures, boolean aborted) {
+        this.outputs = Collections.unmodifiableList(outputs);
+        this.failures = Collections.unmodifiableList(failures);
+        this.aborted = aborted;
+    }
+
+    /**
+     * @return one output per mapped input in the same order, null when the input is null or its mapping has failed
+     */
+    public List<O> getOutputs() {
+        return outputs;
+    }
+
+    /**
+     * @return failures ordered by input index
+     */
+    public List<MappingException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return true if at least one input has failed
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * @return true if the failure budget has been exceeded before the last input, remaining inputs have not been mapped
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+}
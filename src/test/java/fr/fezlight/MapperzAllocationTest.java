@@ -0,0 +1,130 @@
+package fr.fezlight;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation regression tests, measuring bytes allocated by the current thread with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. Budgets are averaged per call after a warm-up,
+ * they are skipped when the JVM does not support allocation counters.
+ */
+class MapperzAllocationTest {
+    private static final int WARM_UP = 20_000;
+    private static final int MEASURED = 20_000;
+
+    @Data
+    @AllArgsConstructor(staticName = "of")
+    public static class Source {
+        private String name;
+        private Integer count;
+        private String label;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Target {
+        private String name;
+        private Integer count;
+        private String label;
+    }
+
+    @Data
+    public static class ConstructedTarget {
+        private final String name;
+        private Integer count;
+    }
+
+    private final Source source = Source.of("test", 12, "label");
+
+    @Test
+    @DisplayName("Given manual declarations When map Then allocate at most the output and mapping iterator")
+    void testMap_allocationBudget() {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declare(Source::getName, Target::setName)
+                .declare(Source::getCount, Target::setCount)
+                .declare(Source::getLabel, Target::setLabel);
+
+        assertThat(allocatedBytesPerCall(() -> mapper.map(source))).isLessThanOrEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("Given constructor declarations When map Then allocate at most the output, constructor args and mapping iterator")
+    void testMap_declareInConstructor_allocationBudget() {
+        Mapperz<Source, ConstructedTarget> mapper = Mapperz
+                .init(Source.class, ConstructedTarget.class)
+                .declareInConstructor(Source::getName, String.class)
+                .declare(Source::getCount, ConstructedTarget::setCount);
+
+        assertThat(allocatedBytesPerCall(() -> mapper.map(source))).isLessThanOrEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("Given automatic declarations When map Then allocate at most the output, mapping iterator and reflective calls")
+    void testMap_declareAutomatic_allocationBudget() {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declareAutomatic();
+
+        assertThat(allocatedBytesPerCall(() -> mapper.map(source))).isLessThanOrEqualTo(512);
+    }
+
+    @Test
+    @DisplayName("Given field set When map Then allocate no more than without field set")
+    void testMap_fieldSet_allocationBudget() {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declare("name", Source::getName, Target::setName)
+                .declare("count", Source::getCount, Target::setCount)
+                .declare("label", Source::getLabel, Target::setLabel);
+        FieldSet fields = mapper.fieldSet("name", "label");
+
+        assertThat(allocatedBytesPerCall(() -> mapper.map(source, fields))).isLessThanOrEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("Given valid inputs When mapAll Then allocate at most the outputs and result per input")
+    void testMapAll_allocationBudget() {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declare(Source::getName, Target::setName)
+                .declare(Source::getCount, Target::setCount);
+        List<Source> inputs = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            inputs.add(source);
+        }
+
+        assertThat(allocatedBytesPerCall(() -> mapper.mapAll(inputs)) / inputs.size()).isLessThanOrEqualTo(128);
+    }
+
+    private static long allocatedBytesPerCall(Supplier<?> call) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters are not supported");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled(),
+                "Allocation counters are not enabled");
+
+        for (int i = 0; i < WARM_UP; i++) {
+            call.get();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED; i++) {
+            call.get();
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        return allocated / MEASURED;
+    }
+}
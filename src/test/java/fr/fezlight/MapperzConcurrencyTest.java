@@ -0,0 +1,300 @@
+package fr.fezlight;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperzConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2_000;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    public static class Source {
+        private String name;
+        private Integer count;
+        private List<String> tags;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Target {
+        private String name;
+        private Integer count;
+        private List<String> tags;
+        private String label;
+    }
+
+    @Getter
+    public static class ConstructedTarget {
+        private final String name;
+        private final Integer count;
+
+        public ConstructedTarget(String name) {
+            this(name, null);
+        }
+
+        public ConstructedTarget(String name, Integer count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Holder published without synchronization, like a mapper assigned to a non-final static field.
+     */
+    private static final class Holder {
+        Mapperz<Source, Target> mapper;
+    }
+
+    private static final Mapperz<Source, Target> SHARED = Mapperz
+            .init(Source.class, Target.class)
+            .declareAutomatic(Arrays.asList("count"))
+            .declare("label", Source::getCount, Target::setLabel, String::valueOf);
+
+    @Test
+    @DisplayName("Given mapper shared between threads When map concurrently Then each output matches its input")
+    void testMap_sharedMapper() throws Exception {
+        List<Throwable> errors = runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                String name = thread + "-" + i;
+                Target result = SHARED.map(Source.of(name, i, Arrays.asList(name)));
+
+                assertThat(result.getName()).isEqualTo(name);
+                assertThat(result.getCount()).isNull();
+                assertThat(result.getLabel()).isEqualTo(String.valueOf(i));
+                assertThat(result.getTags()).containsExactly(name);
+            }
+        });
+
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given mapper shared between threads When declare while mapping Then map never fails and sees previous declarations")
+    void testDeclare_whileMapping() throws Exception {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declare(Source::getName, Target::setName);
+        AtomicBoolean declaring = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                mapper.declare(Source::getTags, Target::setTags);
+            }
+            mapper.declare(Source::getCount, Target::setCount);
+            declaring.set(false);
+        });
+        writer.start();
+
+        List<Throwable> errors = runConcurrently(thread -> {
+            int i = 0;
+            while (declaring.get() || i < ITERATIONS) {
+                Target result = mapper.map(Source.of("test", i++, null));
+                assertThat(result.getName()).isEqualTo("test");
+            }
+        });
+        writer.join();
+
+        assertThat(errors).isEmpty();
+        assertThat(mapper.map(Source.of("test", 12, null)).getCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Given mapper published without synchronization When map from another thread Then all declarations are visible")
+    void testDeclare_visibilityAfterRacyPublication() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int trial = 0; trial < 500; trial++) {
+                Holder holder = new Holder();
+                CountDownLatch start = new CountDownLatch(1);
+
+                Future<Target> reader = executor.submit(() -> {
+                    start.await();
+                    Mapperz<Source, Target> mapper;
+                    while ((mapper = holder.mapper) == null) {
+                        Thread.yield();
+                    }
+                    return mapper.map(Source.of("test", 12, null));
+                });
+                executor.submit(() -> {
+                    start.await();
+                    holder.mapper = Mapperz
+                            .init(Source.class, Target.class)
+                            .declare(Source::getName, Target::setName)
+                            .declare(Source::getCount, Target::setCount);
+                    return null;
+                });
+                start.countDown();
+
+                Target result = reader.get(10, TimeUnit.SECONDS);
+                assertThat(result.getName()).isEqualTo("test");
+                assertThat(result.getCount()).isEqualTo(12);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Given mapper shared between threads When declareAutomatic while mapping Then map sees all automatic declarations or none")
+    void testDeclareAutomatic_whileMapping() throws Exception {
+        for (int trial = 0; trial < 50; trial++) {
+            Mapperz<Source, Target> mapper = Mapperz.init(Source.class, Target.class);
+            AtomicBoolean declaring = new AtomicBoolean(true);
+
+            Thread writer = new Thread(() -> {
+                Thread.yield();
+                mapper.declareAutomatic();
+                declaring.set(false);
+            });
+            writer.start();
+
+            List<Throwable> errors = runConcurrently(thread -> {
+                int i = 0;
+                while (declaring.get() || i < ITERATIONS / 10) {
+                    Target result = mapper.map(Source.of("test", ++i, Arrays.asList("a")));
+                    if (result.getName() == null) {
+                        assertThat(result).isEqualTo(new Target());
+                    } else {
+                        assertThat(result.getCount()).isEqualTo(i);
+                        assertThat(result.getTags()).containsExactly("a");
+                    }
+                }
+            });
+            writer.join();
+
+            assertThat(errors).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Given mapper shared between threads When declare in constructor while mapping Then map never fails and uses matching constructor")
+    void testDeclareInConstructor_whileMapping() throws Exception {
+        for (int trial = 0; trial < 50; trial++) {
+            Mapperz<Source, ConstructedTarget> mapper = Mapperz
+                    .init(Source.class, ConstructedTarget.class)
+                    .declareInConstructor(Source::getName, String.class);
+            AtomicBoolean declaring = new AtomicBoolean(true);
+
+            Thread writer = new Thread(() -> {
+                Thread.yield();
+                mapper.declareInConstructor(Source::getCount, Integer.class);
+                declaring.set(false);
+            });
+            writer.start();
+
+            List<Throwable> errors = runConcurrently(thread -> {
+                int i = 0;
+                while (declaring.get() || i < ITERATIONS / 10) {
+                    ConstructedTarget result = mapper.map(Source.of("test", ++i, null));
+                    assertThat(result.getName()).isEqualTo("test");
+                    assertThat(result.getCount()).isIn(null, i);
+                }
+            });
+            writer.join();
+
+            assertThat(errors).isEmpty();
+            assertThat(mapper.map(Source.of("test", 12, null)).getCount()).isEqualTo(12);
+            assertThat(mapper.mapAll(Arrays.asList(Source.of("test", 12, null))).getOutputs())
+                    .extracting(ConstructedTarget::getCount)
+                    .containsExactly(12);
+        }
+    }
+
+    @Test
+    @DisplayName("Given mapper shared between threads When mapAll concurrently with invalid inputs Then failures are collected per call")
+    void testMapAll_sharedMapper() throws Exception {
+        Mapperz<Source, Target> mapper = Mapperz
+                .init(Source.class, Target.class)
+                .declare("count", Source::getName, Target::setCount, Integer::valueOf);
+
+        List<Throwable> errors = runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS / 10; i++) {
+                List<Source> inputs = IntStream.range(0, 10)
+                        .mapToObj(j -> Source.of(j % 3 == 0 ? "invalid" : String.valueOf(j), null, null))
+                        .collect(Collectors.toList());
+
+                MappingResult<Target> result = mapper.mapAll(inputs, Integer.MAX_VALUE, false);
+
+                assertThat(result.getOutputs()).hasSize(10);
+                assertThat(result.getFailures())
+                        .extracting(MappingException::getIndex)
+                        .containsExactly(0, 3, 6, 9);
+                assertThat(result.getOutputs().get(4).getCount()).isEqualTo(4);
+            }
+        });
+
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given mapper shared between threads When map asynchronously Then each future completes with its output")
+    void testMap_async() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<CompletableFuture<Target>> futures = IntStream.range(0, ITERATIONS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> SHARED.map(Source.of("async-" + i, i, null)), executor))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < futures.size(); i++) {
+                Target result = futures.get(i).join();
+                assertThat(result.getName()).isEqualTo("async-" + i);
+                assertThat(result.getLabel()).isEqualTo(String.valueOf(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Method used to run <code>task</code> on {@link MapperzConcurrencyTest#THREADS} threads started at the same time.
+     * @param task task to run, receiving the thread number
+     * @return all errors thrown by tasks
+     */
+    private static List<Throwable> runConcurrently(ThreadTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                task.run(thread);
+                return null;
+            }));
+        }
+
+        List<Throwable> errors = new ArrayList<>(0);
+        for (Future<?> future : futures) {
+            try {
+                future.get(1, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            } catch (TimeoutException e) {
+                errors.add(e);
+            }
+        }
+        executor.shutdownNow();
+        return errors;
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
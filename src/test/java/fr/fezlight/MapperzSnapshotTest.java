@@ -0,0 +1,216 @@
+package fr.fezlight;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MapperzSnapshotTest {
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    public static class Source {
+        private String name;
+        private Integer count;
+        private List<String> tags;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Target {
+        private String name;
+        private Integer count;
+        private List<String> tags;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class OtherTarget {
+        private String name;
+        private Long count;
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Given mapper with snapshot When declareAutomatic Then plan is recorded")
+    void testRecord() {
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+
+        Mapperz.init(Source.class, Target.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic();
+
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.lookup(Source.class, Target.class, null))
+                .extracting(MapperzSnapshot.PropertyPlan::getName)
+                .containsExactlyInAnyOrder("name", "count", "tags");
+        assertThat(snapshot.lookup(Source.class, Target.class, Collections.singletonList("tags"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Given saved snapshot When load and declareAutomatic Then map using loaded plan")
+    void testSaveAndLoad() {
+        Path path = tempDir.resolve("mapperz.snapshot");
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+        Mapperz.init(Source.class, Target.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic(Collections.singletonList("count"));
+        snapshot.save(path);
+
+        MapperzSnapshot loaded = MapperzSnapshot.load(path);
+        Mapperz<Source, Target> mapper = Mapperz.init(Source.class, Target.class)
+                .withSnapshot(loaded)
+                .declareAutomatic(Collections.singletonList("count"));
+
+        Target result = mapper.map(Source.of("test", 12, Arrays.asList("a", "b")));
+
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(result.getName()).isEqualTo("test");
+        assertThat(result.getCount()).isNull();
+        assertThat(result.getTags()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("Given mapper built from snapshot When reverse Then map back without introspecting classes")
+    void testReverse_fromSnapshot() throws NoSuchFieldException, IllegalAccessException {
+        Path path = tempDir.resolve("reverse.snapshot");
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+        Mapperz.init(Source.class, Target.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic();
+        snapshot.save(path);
+
+        Mapperz<Source, Target> mapper = Mapperz.init(Source.class, Target.class)
+                .withSnapshot(MapperzSnapshot.load(path))
+                .declareAutomatic();
+        Mapperz<Target, Source> reversed = mapper.reverse();
+
+        Source input = Source.of("test", 12, Arrays.asList("a", "b"));
+        Source result = reversed.map(mapper.map(input));
+
+        assertThat(result).isEqualTo(input);
+        for (String name : new String[]{"inputPropertyDescriptors", "outputPropertyDescriptors"}) {
+            Field descriptors = Mapperz.class.getDeclaredField(name);
+            descriptors.setAccessible(true);
+            assertThat(descriptors.get(mapper)).isNull();
+            assertThat(descriptors.get(reversed)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Given outdated plan in snapshot When declareAutomatic Then resolve by reflection and record plan again")
+    void testLookup_outdatedPlan() {
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+        snapshot.record(Source.class, OtherTarget.class, Collections.singletonList("count"), Collections.singletonList(
+                new MapperzSnapshot.PropertyPlan("name", "getRemovedName", "java.lang.String", "setName", "java.lang.String",
+                        "", "", "", "")
+        ));
+
+        OtherTarget result = Mapperz.init(Source.class, OtherTarget.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic(Collections.singletonList("count"))
+                .map(Source.of("test", 12, null));
+
+        assertThat(result.getName()).isEqualTo("test");
+        assertThat(result.getCount()).isNull();
+        assertThat(snapshot.lookup(Source.class, OtherTarget.class, Collections.singletonList("count")))
+                .extracting(MapperzSnapshot.PropertyPlan::getReadMethod)
+                .containsExactly("getName");
+    }
+
+    @Test
+    @DisplayName("Given snapshot saved before classes have changed When declareAutomatic Then resolve by reflection and record plan again")
+    void testLookup_staleFingerprint() throws IOException {
+        Path path = tempDir.resolve("stale.snapshot");
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+        Mapperz.init(Source.class, Target.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic();
+        snapshot.save(path);
+        byte[] content = Files.readAllBytes(path);
+        // Alter fingerprint as if classes had changed
+        content[fingerprintOffset(content)] ^= 0x7f;
+        Files.write(path, content);
+
+        MapperzSnapshot loaded = MapperzSnapshot.load(path);
+
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(loaded.lookup(Source.class, Target.class, null)).isNull();
+
+        Target result = Mapperz.init(Source.class, Target.class)
+                .withSnapshot(loaded)
+                .declareAutomatic()
+                .map(Source.of("test", 12, null));
+
+        assertThat(result.getName()).isEqualTo("test");
+        assertThat(result.getCount()).isEqualTo(12);
+        assertThat(loaded.lookup(Source.class, Target.class, null)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Given file with corrupted property count When load Then empty snapshot")
+    void testLoad_corruptedCount() throws IOException {
+        Path path = tempDir.resolve("corrupted.snapshot");
+        MapperzSnapshot snapshot = MapperzSnapshot.create();
+        Mapperz.init(Source.class, Target.class)
+                .withSnapshot(snapshot)
+                .declareAutomatic();
+        snapshot.save(path);
+        byte[] content = Files.readAllBytes(path);
+        int propertyCountOffset = fingerprintOffset(content) + 8;
+
+        for (int count : new int[]{-1, Integer.MAX_VALUE}) {
+            ByteBuffer.wrap(content).putInt(propertyCountOffset, count);
+            Files.write(path, content);
+
+            assertThat(MapperzSnapshot.load(path).size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Given missing or invalid file When load Then empty snapshot")
+    void testLoad_missingOrInvalidFile() throws IOException {
+        Path invalid = Files.write(tempDir.resolve("invalid.snapshot"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThat(MapperzSnapshot.load(tempDir.resolve("missing.snapshot")).size()).isZero();
+        assertThat(MapperzSnapshot.load(invalid).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given null snapshot When withSnapshot Then error")
+    void testWithSnapshot_null() {
+        Mapperz<Source, Target> mapper = Mapperz.init(Source.class, Target.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.withSnapshot(null));
+
+        assertThat(e.getMessage()).isEqualTo("Mapperz.withSnapshot() - Snapshot provided is null");
+    }
+
+    /**
+     * Method used to find the offset of the first plan fingerprint, after magic, version, plan count and plan key.
+     */
+    private static int fingerprintOffset(byte[] content) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        in.skipBytes(3 * Integer.BYTES);
+        in.readUTF();
+        return content.length - in.available();
+    }
+}
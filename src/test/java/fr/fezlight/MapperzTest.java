@@ -3,6 +3,7 @@ package fr.fezlight;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -98,6 +101,40 @@ class MapperzTest {
         private List<Integer> integerList;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    public static final class TestObject5 {
+        private String string;
+        private Integer integer;
+        private String date;
+        private List<String> stringList;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static final class TestObject5DTO {
+        private String string;
+        private Integer integer;
+        private LocalDate date;
+        private List<String> stringList;
+        private String other;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor(staticName = "of")
+    public static final class TestObject6 {
+        private Integer integer;
+
+        public Integer getInteger() {
+            if (integer != null && integer < 0) {
+                throw new IllegalStateException("Negative integer");
+            }
+            return integer;
+        }
+    }
+
     @Test
     @DisplayName("Given input, output class When init Then I=input class type and O=output class type")
     void testInit() throws NoSuchFieldException, IllegalAccessException {
@@ -133,7 +170,7 @@ class MapperzTest {
 
         Field mappings = mapper.getClass().getDeclaredField("mappings");
         mappings.setAccessible(true);
-        Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>> maps = (Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>>)mappings.get(mapper);
+        Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>> maps = ((AtomicReference<Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>>>)mappings.get(mapper)).get();
 
         assertThat(maps).hasSize(2);
     }
@@ -148,7 +185,7 @@ class MapperzTest {
 
         Field mappings = mapper.getClass().getDeclaredField("mappings");
         mappings.setAccessible(true);
-        Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>> maps = (Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>>)mappings.get(mapper);
+        Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>> maps = ((AtomicReference<Map<Function<TestObject, ?>, BiConsumer<TestObjectDTO, ?>>>)mappings.get(mapper)).get();
 
         assertThat(maps).hasSize(3);
     }
@@ -471,4 +508,345 @@ class MapperzTest {
         assertThat(result).isNotNull();
         assertThat(result.getInteger()).isEqualTo(60);
     }
+
+    @Test
+    @DisplayName("Given input supplier When warmUp Then map each supplied input")
+    void testWarmUp() {
+        AtomicInteger calls = new AtomicInteger();
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz
+                .init(TestObject.class, TestObjectDTO.class)
+                .declare(TestObject::getInteger, TestObjectDTO::setInteger)
+                .warmUp(() -> {
+                    calls.incrementAndGet();
+                    return TestObject.of(12, true, "test", Collections.singletonList(""));
+                }, 100);
+
+        assertThat(calls.get()).isEqualTo(100);
+        assertThat(mapper.map(TestObject.of(12, true, "test", null)).getInteger()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Given input supplier When warmUp with default iterations Then map each supplied input")
+    void testWarmUp_defaultIterations() {
+        AtomicInteger calls = new AtomicInteger();
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"))
+                .declare(TestObject5::getDate, TestObject5DTO::setDate, LocalDate::parse)
+                .warmUp(() -> {
+                    calls.incrementAndGet();
+                    return TestObject5.of("test", 12, "2022-01-31", Collections.singletonList("a"));
+                });
+
+        assertThat(calls.get()).isEqualTo(Mapperz.DEFAULT_WARM_UP_ITERATIONS);
+        assertThat(mapper.map(TestObject5.of("test", 12, "2022-02-01", null)).getDate())
+                .isEqualTo(LocalDate.of(2022, 2, 1));
+    }
+
+    @Test
+    @DisplayName("Given null supplier When warmUp Then error")
+    void testWarmUp_nullSupplier() {
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz.init(TestObject.class, TestObjectDTO.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.warmUp(null));
+
+        assertThat(e.getMessage()).isEqualTo("Mapperz.warmUp() - Input supplier is null or iterations is negative");
+    }
+
+    @Test
+    @DisplayName("Given valid and invalid inputs When mapAll Then map valid inputs and collect failures")
+    void testMapAll() {
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz
+                .init(TestObject.class, TestObjectDTO.class)
+                .declare("integer", TestObject::getString, TestObjectDTO::setInteger, Integer::valueOf)
+                .declare(TestObject::isBool, TestObjectDTO::setBool);
+
+        MappingResult<TestObjectDTO> result = mapper.mapAll(Arrays.asList(
+                TestObject.of(1, true, "20", null),
+                TestObject.of(2, true, "not a number", null),
+                null,
+                TestObject.of(3, false, "40", null)
+        ));
+
+        assertThat(result.isAborted()).isFalse();
+        assertThat(result.getOutputs()).hasSize(4);
+        assertThat(result.getOutputs().get(0).getInteger()).isEqualTo(20);
+        assertThat(result.getOutputs().get(1)).isNull();
+        assertThat(result.getOutputs().get(2)).isNull();
+        assertThat(result.getOutputs().get(3).getInteger()).isEqualTo(40);
+        assertThat(result.getFailures()).hasSize(1);
+
+        MappingException failure = result.getFailures().get(0);
+        assertThat(failure.getIndex()).isEqualTo(1);
+        assertThat(failure.getField()).isEqualTo("integer");
+        assertThat(failure).hasMessage("Mapping of input 1 failed on field 'integer'");
+        assertThat(failure.getCause()).isInstanceOf(NumberFormatException.class);
+        assertThat(failure.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Given automatic getter throwing When mapAll without stack trace Then cause is the exception thrown by the getter")
+    void testMapAll_automaticGetterFailure() {
+        MappingResult<TestObject5DTO> result = Mapperz
+                .init(TestObject6.class, TestObject5DTO.class)
+                .declareAutomatic()
+                .mapAll(Arrays.asList(TestObject6.of(12), TestObject6.of(-1)), Integer.MAX_VALUE, false);
+
+        assertThat(result.getOutputs().get(0).getInteger()).isEqualTo(12);
+        assertThat(result.getOutputs().get(1)).isNull();
+        assertThat(result.getFailures()).hasSize(1);
+        assertThat(result.getFailures().get(0))
+                .hasMessage("Mapping of input 1 failed on field 'integer'")
+                .hasCauseExactlyInstanceOf(IllegalStateException.class);
+        assertThat(result.getFailures().get(0).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given invalid inputs When mapAll with failure budget Then abort after budget is exceeded")
+    void testMapAll_failureBudgetExceeded() {
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz
+                .init(TestObject.class, TestObjectDTO.class)
+                .declare(TestObject::getString, TestObjectDTO::setInteger, Integer::valueOf);
+
+        MappingResult<TestObjectDTO> result = mapper.mapAll(Arrays.asList(
+                TestObject.of(1, true, "a", null),
+                TestObject.of(2, true, "b", null),
+                TestObject.of(3, true, "30", null),
+                TestObject.of(4, true, "d", null)
+        ), 1, false);
+
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getOutputs()).hasSize(2);
+        assertThat(result.getFailures())
+                .extracting(MappingException::getIndex)
+                .containsExactly(0, 1);
+        assertThat(result.getFailures())
+                .allMatch(f -> f.getField() == null)
+                .allMatch(f -> f.getDeclaration() == 0)
+                .allMatch(f -> f.getStackTrace().length == 0);
+        assertThat(result.getFailures().get(0))
+                .hasMessage("Mapping of input 0 failed on unnamed declaration 0")
+                .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("Given output class with invalid constructor When mapAll Then collect failures")
+    void testMapAll_constructorFailure() {
+        MappingResult<TestObject2> result = Mapperz
+                .init(TestObject2DTO.class, TestObject2.class)
+                .declareInConstructor(TestObject2DTO::getId, Integer.class)
+                .mapAll(Collections.singletonList(TestObject2DTO.of(12, "test", null, null)));
+
+        assertThat(result.getOutputs()).containsExactly((TestObject2) null);
+        assertThat(result.getFailures().get(0).getField()).isNull();
+        assertThat(result.getFailures().get(0).getDeclaration()).isEqualTo(-1);
+        assertThat(result.getFailures().get(0)).hasMessage("Mapping of input 0 failed when creating output");
+        assertThat(result.getFailures().get(0).getCause()).isInstanceOf(NoSuchMethodException.class);
+    }
+
+    @Test
+    @DisplayName("Given last input exceeding failure budget When mapAll Then all inputs are mapped and result is not aborted")
+    void testMapAll_failureBudgetExceededByLastInput() {
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz
+                .init(TestObject.class, TestObjectDTO.class)
+                .declare(TestObject::getString, TestObjectDTO::setInteger, Integer::valueOf);
+
+        MappingResult<TestObjectDTO> result = mapper.mapAll(Arrays.asList(
+                TestObject.of(1, true, "10", null),
+                TestObject.of(2, true, "b", null),
+                TestObject.of(3, true, "c", null)
+        ), 1, true);
+
+        assertThat(result.isAborted()).isFalse();
+        assertThat(result.getOutputs()).hasSize(3);
+        assertThat(result.getFailures())
+                .extracting(MappingException::getIndex)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Given output class without matching constructor When mapAll without stack trace Then constructor is looked up once")
+    void testMapAll_constructorFailure_sharedCause() {
+        MappingResult<TestObject2> result = Mapperz
+                .init(TestObject2DTO.class, TestObject2.class)
+                .declareInConstructor(TestObject2DTO::getId, Integer.class)
+                .mapAll(Arrays.asList(
+                        TestObject2DTO.of(1, "test", null, null),
+                        TestObject2DTO.of(2, "test", null, null)
+                ), Integer.MAX_VALUE, false);
+
+        assertThat(result.getFailures()).hasSize(2);
+        assertThat(result.getFailures()).allMatch(f -> f.getStackTrace().length == 0);
+        assertThat(result.getFailures().get(0).getCause()).isSameAs(result.getFailures().get(1).getCause());
+    }
+
+    @Test
+    @DisplayName("Given null inputs When mapAll Then error")
+    void testMapAll_nullInputs() {
+        Mapperz<TestObject, TestObjectDTO> mapper = Mapperz.init(TestObject.class, TestObjectDTO.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.mapAll(null));
+
+        assertThat(e.getMessage()).isEqualTo("Mapperz.mapAll() - Inputs provided is null or failure budget is negative");
+    }
+
+    @Test
+    @DisplayName("Given mapper with declareAutomatic and inverse accessors When reverse Then map back to input")
+    void testReverse() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Arrays.asList("date", "string"))
+                .declare("date", TestObject5::getDate, TestObject5DTO::setDate, LocalDate::parse,
+                        TestObject5DTO::getDate, TestObject5::setDate, LocalDate::toString)
+                .declare(TestObject5::getString, TestObject5DTO::setOther, String::trim,
+                        TestObject5DTO::getOther, TestObject5::setString, String::toUpperCase);
+
+        Mapperz<TestObject5DTO, TestObject5> reversed = mapper.reverse();
+
+        TestObject5 input = TestObject5.of(" test ", 12, "2022-01-31", Arrays.asList("a", "b"));
+        TestObject5DTO output = mapper.map(input);
+        TestObject5 result = reversed.map(output);
+
+        assertThat(output.getDate()).isEqualTo(LocalDate.of(2022, 1, 31));
+        assertThat(output.getString()).isNull();
+        assertThat(output.getOther()).isEqualTo("test");
+        assertThat(result).isEqualTo(TestObject5.of("TEST", 12, "2022-01-31", Arrays.asList("a", "b")));
+        assertThat(reversed.reverse().map(result)).isEqualTo(mapper.map(result));
+    }
+
+    @Test
+    @DisplayName("Given mapper with declarations without inverse When reverse Then only map back reversible declarations")
+    void testReverse_notReversibleDeclarations() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declare("integer", TestObject5::getInteger, TestObject5DTO::setInteger)
+                .declareIf(o -> true, TestObject5::getStringList, TestObject5DTO::setStringList)
+                .declare("other", TestObject5::getString, TestObject5DTO::setOther, String::trim,
+                        TestObject5DTO::getOther, TestObject5::setString, String::trim);
+
+        TestObject5 result = mapper.reverse().map(mapper.map(TestObject5.of("test", 12, null, Arrays.asList("a"))));
+
+        assertThat(result).isEqualTo(TestObject5.of("test", null, null, null));
+    }
+
+    @Test
+    @DisplayName("Given null inverse accessors When declare Then error")
+    void testDeclare_nullInverse() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz.init(TestObject5.class, TestObject5DTO.class);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.declare(
+                TestObject5::getString, TestObject5DTO::setOther, String::trim, null, TestObject5::setString, String::trim
+        ));
+
+        assertThat(e.getMessage()).isEqualTo("Mapperz.declare() - Inverse getter, setter and formatter must be provided");
+    }
+
+    @Test
+    @DisplayName("Given field set When map Then only map fields of field set")
+    void testMap_fieldSet() {
+        AtomicInteger calls = new AtomicInteger();
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"))
+                .declare("date", TestObject5::getDate, TestObject5DTO::setDate, d -> {
+                    calls.incrementAndGet();
+                    return LocalDate.parse(d);
+                });
+        FieldSet fields = mapper.fieldSet("string", "integer");
+
+        TestObject5DTO result = mapper.map(TestObject5.of("test", 12, "2022-01-31", Collections.singletonList("a")), fields);
+
+        assertThat(result.getString()).isEqualTo("test");
+        assertThat(result.getInteger()).isEqualTo(12);
+        assertThat(result.getDate()).isNull();
+        assertThat(result.getStringList()).isNull();
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given field set with more than 64 declarations When map Then only map fields of field set")
+    void testMap_fieldSet_moreThan64Declarations() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz.init(TestObject5.class, TestObject5DTO.class);
+        for (int i = 0; i < 70; i++) {
+            mapper.declare("string" + i, TestObject5::getString, TestObject5DTO::setOther);
+        }
+        mapper.declare("integer", TestObject5::getInteger, TestObject5DTO::setInteger);
+
+        TestObject5DTO result = mapper.map(TestObject5.of("test", 12, null, null), mapper.fieldSet("integer"));
+
+        assertThat(result.getInteger()).isEqualTo(12);
+        assertThat(result.getOther()).isNull();
+    }
+
+    @Test
+    @DisplayName("Given unknown field or field set of another mapper When fieldSet or map Then error")
+    void testMap_fieldSet_invalid() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"));
+        FieldSet otherFields = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"))
+                .fieldSet("string");
+
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class, () -> mapper.fieldSet("date"));
+        IllegalArgumentException other = assertThrows(IllegalArgumentException.class,
+                () -> mapper.map(TestObject5.of("test", 12, null, null), otherFields));
+
+        assertThat(unknown.getMessage()).isEqualTo("Mapperz.fieldSet() - No declaration found for field date");
+        assertThat(other.getMessage()).isEqualTo("Mapperz.map() - Field set provided is null or compiled for another mapper");
+    }
+
+    @Test
+    @DisplayName("Given mapper with unnamed declaration When fieldSet Then error")
+    void testFieldSet_unnamedDeclaration() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"))
+                .declare(TestObject5::getString, TestObject5DTO::setOther);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.fieldSet("string"));
+
+        assertThat(e.getMessage()).isEqualTo("Mapperz.fieldSet() - Declarations without name cannot be part of a " +
+                "field set, name them with declare(field, ...) or declareIf(field, ...)");
+    }
+
+    @Test
+    @DisplayName("Given field set and output supplier When map Then only map fields of field set into supplied output")
+    void testMap_fieldSet_supplier() {
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declareAutomatic(Collections.singletonList("date"));
+        FieldSet fields = mapper.fieldSet("integer");
+        TestObject5DTO output = new TestObject5DTO();
+        output.setOther("kept");
+
+        TestObject5DTO result = mapper.map(TestObject5.of("test", 12, null, null), () -> output, fields);
+
+        assertThat(result).isSameAs(output);
+        assertThat(result.getInteger()).isEqualTo(12);
+        assertThat(result.getString()).isNull();
+        assertThat(result.getOther()).isEqualTo("kept");
+    }
+
+    @Test
+    @DisplayName("Given conditional declaration When map Then only read field when condition is true")
+    void testMap_declareIf() {
+        AtomicInteger calls = new AtomicInteger();
+        Mapperz<TestObject5, TestObject5DTO> mapper = Mapperz
+                .init(TestObject5.class, TestObject5DTO.class)
+                .declare(TestObject5::getInteger, TestObject5DTO::setInteger)
+                .declareIf(i -> i.getInteger() > 10, i -> {
+                    calls.incrementAndGet();
+                    return i.getString();
+                }, TestObject5DTO::setString);
+
+        TestObject5DTO skipped = mapper.map(TestObject5.of("test", 1, null, null));
+        TestObject5DTO mapped = mapper.map(TestObject5.of("test", 12, null, null));
+
+        assertThat(skipped.getInteger()).isEqualTo(1);
+        assertThat(skipped.getString()).isNull();
+        assertThat(mapped.getString()).isEqualTo("test");
+        assertThat(calls.get()).isEqualTo(1);
+    }
 }